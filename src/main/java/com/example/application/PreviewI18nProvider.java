@@ -1,6 +1,8 @@
 package com.example.application;
 
 import com.vaadin.flow.i18n.I18NProvider;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.Watcher;
@@ -11,11 +13,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 @Service
 public class PreviewI18nProvider implements I18NProvider {
@@ -23,9 +29,15 @@ public class PreviewI18nProvider implements I18NProvider {
     static final String PREVIEW_MARKER_LABEL = "vaadin.cc.i18n.translation-preview";
     static final String PREVIEW_LANGUAGE_TAG_LABEL = "vaadin.cc.i18n.translation-preview.language-tag";
     static final String PREVIEW_DEFAULT_LANGUAGE_LABEL = "vaadin.cc.i18n.translation-preview.default-language";
+    static final String PREVIEW_TENANT_LABEL = "vaadin.cc.i18n.translation-preview.tenant";
+    public static final String TENANT_SESSION_ATTRIBUTE = "vaadin.cc.i18n.translation-preview.tenant";
     static final Logger logger = LoggerFactory.getLogger(PreviewI18nProvider.class);
 
-    private final Map<Locale, PreviewLanguage> discoveredLanguages = new HashMap<>();
+    private final Map<Locale, PreviewLanguage> discoveredLanguages = new ConcurrentHashMap<>();
+    private final Map<String, Map<Locale, Map<String, String>>> tenantOverlays = new ConcurrentHashMap<>();
+    private final Map<String, ConfigMapSource> configMapSources = new ConcurrentHashMap<>();
+    private final List<Consumer<ProvidedLocales>> localesChangeListeners = new CopyOnWriteArrayList<>();
+    private volatile ProvidedLocales providedLocales = new ProvidedLocales(List.of(), 0);
 
     @PostConstruct
     void initialize() {
@@ -33,8 +45,8 @@ public class PreviewI18nProvider implements I18NProvider {
             @Override
             public void eventReceived(Action action, ConfigMap configMap) {
                 switch (action) {
-                    case ADDED, MODIFIED -> addOrUpdateTranslations(configMap);
-                    case DELETED -> removeTranslations(configMap);
+                    case ADDED, MODIFIED -> addOrUpdateConfigMap(configMap);
+                    case DELETED -> removeConfigMap(configMap);
                 }
             }
 
@@ -53,8 +65,41 @@ public class PreviewI18nProvider implements I18NProvider {
         }
     }
 
-    private void addOrUpdateTranslations(ConfigMap configMap) {
-        var locale = detectLocale(configMap);
+    /**
+     * Config maps are tracked by name, so that changing the tenant or language
+     * tag label of an existing config map removes the translations that were
+     * previously registered for it.
+     */
+    private synchronized void addOrUpdateConfigMap(ConfigMap configMap) {
+        var source = new ConfigMapSource(detectTenant(configMap).orElse(null), detectLocale(configMap));
+        var previousSource = configMapSources.put(configMap.getMetadata().getName(), source);
+        if (previousSource != null && !previousSource.equals(source)) {
+            removeSource(previousSource);
+        }
+
+        if (source.tenant() != null) {
+            addOrUpdateOverlay(source.tenant(), source.locale(), configMap);
+        } else {
+            addOrUpdateTranslations(source.locale(), configMap);
+        }
+    }
+
+    private synchronized void removeConfigMap(ConfigMap configMap) {
+        var source = configMapSources.remove(configMap.getMetadata().getName());
+        if (source != null) {
+            removeSource(source);
+        }
+    }
+
+    private void removeSource(ConfigMapSource source) {
+        if (source.tenant() != null) {
+            removeOverlay(source.tenant(), source.locale());
+        } else {
+            removeTranslations(source.locale());
+        }
+    }
+
+    private void addOrUpdateTranslations(Locale locale, ConfigMap configMap) {
         var isUpdate = discoveredLanguages.containsKey(locale);
 
         var translations = configMap.getData();
@@ -68,14 +113,74 @@ public class PreviewI18nProvider implements I18NProvider {
         } else {
             logger.info("Found preview translations for locale: {}", locale);
         }
+        // Also needed for updates, as the default language label may have changed
+        updateProvidedLocales();
     }
 
-    private void removeTranslations(ConfigMap configMap) {
-        var locale = detectLocale(configMap);
-        discoveredLanguages.remove(locale);
+    private void removeTranslations(Locale locale) {
+        if (discoveredLanguages.remove(locale) != null) {
+            updateProvidedLocales();
+        }
         logger.info("Removed preview translations for locale: {}", locale);
     }
 
+    /**
+     * Tenant overlays only store the keys that they override. The shared base
+     * translations are never copied, lookups for a tenant check the overlay
+     * first and then fall through to the base language. The overlays of a
+     * tenant are replaced as a whole on changes, so lookups don't need to lock.
+     */
+    private void addOrUpdateOverlay(String tenant, Locale locale, ConfigMap configMap) {
+        var overlays = new HashMap<>(tenantOverlays.getOrDefault(tenant, Map.of()));
+        var isUpdate = overlays.put(locale, Map.copyOf(configMap.getData())) != null;
+        tenantOverlays.put(tenant, Map.copyOf(overlays));
+
+        if (isUpdate) {
+            logger.info("Updated preview translation overlay for tenant {} and locale: {}", tenant, locale);
+        } else {
+            logger.info("Found preview translation overlay for tenant {} and locale: {}", tenant, locale);
+        }
+    }
+
+    private void removeOverlay(String tenant, Locale locale) {
+        var overlays = new HashMap<>(tenantOverlays.getOrDefault(tenant, Map.of()));
+        overlays.remove(locale);
+        if (overlays.isEmpty()) {
+            tenantOverlays.remove(tenant);
+        } else {
+            tenantOverlays.put(tenant, Map.copyOf(overlays));
+        }
+        logger.info("Removed preview translation overlay for tenant {} and locale: {}", tenant, locale);
+    }
+
+    /**
+     * Rebuilds the cached locale list and notifies listeners if it has changed.
+     * The default language comes first, as Flow uses the first provided locale
+     * as a fallback, the remaining locales are sorted by language tag so that
+     * the order is stable regardless of the order in which config maps were
+     * discovered.
+     */
+    private void updateProvidedLocales() {
+        var locales = discoveredLanguages.values().stream()
+                .sorted(Comparator.comparing((PreviewLanguage language) -> !language.isDefault())
+                        .thenComparing(language -> language.locale().toLanguageTag()))
+                .map(PreviewLanguage::locale)
+                .toList();
+        if (locales.equals(providedLocales.locales())) {
+            return;
+        }
+        var update = new ProvidedLocales(locales, providedLocales.version() + 1);
+        providedLocales = update;
+
+        localesChangeListeners.forEach(listener -> {
+            try {
+                listener.accept(update);
+            } catch (Exception e) {
+                logger.error("Failed to notify listener about changed locales", e);
+            }
+        });
+    }
+
     private Locale detectLocale(ConfigMap configMap) {
         var languageTag = configMap.getMetadata().getLabels().get(PREVIEW_LANGUAGE_TAG_LABEL);
 
@@ -90,6 +195,20 @@ public class PreviewI18nProvider implements I18NProvider {
         return Locale.forLanguageTag(sanitizedLanguageTag);
     }
 
+    private Optional<String> detectTenant(ConfigMap configMap) {
+        return Optional.ofNullable(configMap.getMetadata().getLabels().get(PREVIEW_TENANT_LABEL))
+                .filter(tenant -> !tenant.isEmpty());
+    }
+
+    private Optional<String> currentTenant() {
+        var session = VaadinSession.getCurrent();
+        if (session == null || !session.hasLock()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(session.getAttribute(TENANT_SESSION_ATTRIBUTE))
+                .map(String::valueOf);
+    }
+
     private boolean isDefaultLanguage(ConfigMap configMap) {
         return String.valueOf(true).equals(configMap.getMetadata().getLabels().get(PREVIEW_DEFAULT_LANGUAGE_LABEL));
     }
@@ -99,7 +218,7 @@ public class PreviewI18nProvider implements I18NProvider {
         var language = Optional.ofNullable(discoveredLanguages.get(locale));
 
         // Use a locale with the same language as a fallback
-        language = language.or(() -> discoveredLanguages.keySet().stream()
+        language = language.or(() -> providedLocales.locales().stream()
                 .filter(l -> l.getLanguage().equals(locale.getLanguage()))
                 .findFirst()
                 .map(discoveredLanguages::get));
@@ -126,11 +245,58 @@ public class PreviewI18nProvider implements I18NProvider {
 
     @Override
     public List<Locale> getProvidedLocales() {
-        return discoveredLanguages.keySet().stream().toList();
+        return providedLocales.locales();
+    }
+
+    /**
+     * Returns the current snapshot of provided locales along with its version.
+     * The version is incremented every time the list of locales changes, which
+     * allows consumers to detect whether a snapshot they have applied is stale.
+     *
+     * @return the current provided locales snapshot
+     */
+    public ProvidedLocales getProvidedLocalesSnapshot() {
+        return providedLocales;
     }
 
+    /**
+     * Adds a listener that is notified whenever a locale is added or removed,
+     * or the default language changes. Updates to the translations of an
+     * existing locale do not trigger the listener. Listeners are called from the thread that receives config map
+     * events, so UI code must use {@code UI.access} to apply changes.
+     *
+     * @param listener the listener to add
+     * @return a registration for removing the listener
+     */
+    public Registration addLocalesChangeListener(Consumer<ProvidedLocales> listener) {
+        localesChangeListeners.add(listener);
+        return () -> localesChangeListeners.remove(listener);
+    }
+
+    /**
+     * Returns a translation for the tenant stored in the
+     * {@link #TENANT_SESSION_ATTRIBUTE} attribute of the current session, or a
+     * translation from the shared base catalog if there is no tenant.
+     */
     @Override
     public String getTranslation(String messageKey, Locale locale, Object... params) {
+        return getTenantTranslation(currentTenant().orElse(null), messageKey, locale, params);
+    }
+
+    /**
+     * Returns a translation for the given tenant. Keys overridden by the
+     * tenant's overlay for the resolved language take precedence, all other
+     * keys are looked up in the shared base catalog. Overlays are matched by
+     * the locale of the resolved language, so they should use the same
+     * language tag as the config map they override.
+     *
+     * @param tenant     the tenant, or {@code null} to only use the base catalog
+     * @param messageKey the message key
+     * @param locale     the locale
+     * @param params     the message format parameters
+     * @return the translation, or the message key if there is no translation
+     */
+    public String getTenantTranslation(String tenant, String messageKey, Locale locale, Object... params) {
         var maybeLanguage = resolveLanguage(locale);
         if (maybeLanguage.isEmpty()) {
             return messageKey;
@@ -138,7 +304,18 @@ public class PreviewI18nProvider implements I18NProvider {
 
         var configMapKey = generateConfigMapKey(messageKey);
         var language = maybeLanguage.get();
-        var translation = language.translations().get(configMapKey);
+        String translation = null;
+
+        if (tenant != null) {
+            var overlays = tenantOverlays.get(tenant);
+            var overlay = overlays != null ? overlays.get(language.locale()) : null;
+            if (overlay != null) {
+                translation = overlay.get(configMapKey);
+            }
+        }
+        if (translation == null) {
+            translation = language.translations().get(configMapKey);
+        }
 
         if (translation == null) {
             return messageKey;
@@ -152,4 +329,14 @@ public class PreviewI18nProvider implements I18NProvider {
 
     private record PreviewLanguage(Locale locale, Map<String, String> translations, boolean isDefault) {
     }
+
+    private record ConfigMapSource(String tenant, Locale locale) {
+    }
+
+    /**
+     * An immutable, sorted list of provided locales and the version of the
+     * locale set it was created from.
+     */
+    public record ProvidedLocales(List<Locale> locales, long version) {
+    }
 }
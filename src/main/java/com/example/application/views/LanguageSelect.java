@@ -1,16 +1,25 @@
 package com.example.application.views;
 
+import com.example.application.PreviewI18nProvider;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.select.Select;
-import com.vaadin.flow.i18n.I18NProvider;
 import com.vaadin.flow.i18n.LocaleChangeEvent;
 import com.vaadin.flow.i18n.LocaleChangeObserver;
+import com.vaadin.flow.shared.Registration;
 
 import java.util.Locale;
 
 public class LanguageSelect extends Select<Locale> implements LocaleChangeObserver {
-    public LanguageSelect(I18NProvider i18NProvider) {
+    private final PreviewI18nProvider i18NProvider;
+    private long appliedLocalesVersion = -1;
+    private Registration localesChangeRegistration;
+
+    public LanguageSelect(PreviewI18nProvider i18NProvider) {
         super();
-        setItems(i18NProvider.getProvidedLocales());
+        this.i18NProvider = i18NProvider;
+        updateItems();
         setItemLabelGenerator(Locale::getDisplayLanguage);
         addValueChangeListener(event -> {
             if (event.isFromClient()) {
@@ -23,6 +32,47 @@ public class LanguageSelect extends Select<Locale> implements LocaleChangeObserv
         });
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        var ui = attachEvent.getUI();
+        // Several changes may be queued before the UI processes them, each
+        // access only applies the latest snapshot if it hasn't been applied yet
+        localesChangeRegistration = i18NProvider.addLocalesChangeListener(locales -> {
+            try {
+                ui.access(this::updateItems);
+            } catch (UIDetachedException e) {
+                // UI was detached concurrently, the listener is removed in onDetach
+            }
+        });
+        // Locales might have changed while detached, register the listener
+        // first so that no change is missed in between
+        updateItems();
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        if (localesChangeRegistration != null) {
+            localesChangeRegistration.remove();
+            localesChangeRegistration = null;
+        }
+        super.onDetach(detachEvent);
+    }
+
+    private void updateItems() {
+        var snapshot = i18NProvider.getProvidedLocalesSnapshot();
+        if (snapshot.version() == appliedLocalesVersion) {
+            return;
+        }
+        appliedLocalesVersion = snapshot.version();
+
+        var selectedLocale = getValue();
+        setItems(snapshot.locales());
+        if (selectedLocale != null && snapshot.locales().contains(selectedLocale)) {
+            setValue(selectedLocale);
+        }
+    }
+
     @Override
     public void localeChange(LocaleChangeEvent event) {
         setValue(event.getLocale());
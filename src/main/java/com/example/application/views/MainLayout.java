@@ -1,5 +1,6 @@
 package com.example.application.views;
 
+import com.example.application.PreviewI18nProvider;
 import com.vaadin.flow.component.applayout.AppLayout;
 import com.vaadin.flow.component.applayout.DrawerToggle;
 import com.vaadin.flow.component.html.Footer;
@@ -11,7 +12,6 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.Scroller;
 import com.vaadin.flow.component.sidenav.SideNav;
 import com.vaadin.flow.component.sidenav.SideNavItem;
-import com.vaadin.flow.i18n.I18NProvider;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 import org.vaadin.lineawesome.LineAwesomeIcon;
@@ -21,10 +21,10 @@ import org.vaadin.lineawesome.LineAwesomeIcon;
  */
 public class MainLayout extends AppLayout {
 
-    private final I18NProvider i18NProvider;
+    private final PreviewI18nProvider i18NProvider;
     private H2 viewTitle;
 
-    public MainLayout(I18NProvider i18NProvider) {
+    public MainLayout(PreviewI18nProvider i18NProvider) {
         this.i18NProvider = i18NProvider;
         setPrimarySection(Section.DRAWER);
         addDrawerContent();
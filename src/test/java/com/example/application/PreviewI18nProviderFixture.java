@@ -0,0 +1,60 @@
+package com.example.application;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.Watcher;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Creates a {@link PreviewI18nProvider} that does not connect to a cluster,
+ * and allows tests outside of this package to simulate config map events.
+ */
+public class PreviewI18nProviderFixture {
+    private final PreviewI18nProvider provider;
+    private final Watcher<ConfigMap> watcher;
+
+    @SuppressWarnings("unchecked")
+    public PreviewI18nProviderFixture() {
+        provider = spy(new PreviewI18nProvider());
+        var watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        doAnswer(invocation -> {
+            // Ignore, just disable the original implementation
+            return null;
+        }).when(provider).watchResources(watcherCaptor.capture());
+        provider.initialize();
+        watcher = watcherCaptor.getValue();
+    }
+
+    public PreviewI18nProvider getProvider() {
+        return provider;
+    }
+
+    public void add(ConfigMap configMap) {
+        watcher.eventReceived(Watcher.Action.ADDED, configMap);
+    }
+
+    public void delete(ConfigMap configMap) {
+        watcher.eventReceived(Watcher.Action.DELETED, configMap);
+    }
+
+    public static ConfigMap createConfigMap(String languageTag, Map<String, String> translations, boolean isDefault) {
+        var metadata = new ObjectMeta();
+        metadata.setName("translations-" + languageTag);
+        var labels = new HashMap<String, String>();
+        labels.put(PreviewI18nProvider.PREVIEW_MARKER_LABEL, "");
+        labels.put(PreviewI18nProvider.PREVIEW_LANGUAGE_TAG_LABEL, languageTag);
+        labels.put(PreviewI18nProvider.PREVIEW_DEFAULT_LANGUAGE_LABEL, String.valueOf(isDefault));
+        metadata.setLabels(labels);
+
+        var configMap = new ConfigMap();
+        configMap.setMetadata(metadata);
+        configMap.getData().putAll(translations);
+        return configMap;
+    }
+}
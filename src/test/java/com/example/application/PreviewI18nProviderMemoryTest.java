@@ -0,0 +1,86 @@
+package com.example.application;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the heap used by tenant overlays with the heap that would be used
+ * by a copy of the base catalog per tenant. Measurements are based on the
+ * used heap after a full GC, so the assertion leaves a wide margin for noise.
+ */
+class PreviewI18nProviderMemoryTest {
+    private static final int CATALOG_SIZE = 5000;
+    private static final int TENANT_COUNT = 150;
+    private static final int OVERRIDES_PER_TENANT = 5;
+
+    @Test
+    void tenantOverlays_useLessHeapThanCopiedCatalogs() {
+        var baseTranslations = new HashMap<String, String>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            baseTranslations.put("demo.key." + i, "Translation for key " + i);
+        }
+        var fixture = new PreviewI18nProviderFixture();
+        fixture.add(PreviewI18nProviderFixture.createConfigMap("en", baseTranslations, true));
+
+        var overlayConfigMaps = new ArrayList<ConfigMap>();
+        for (int i = 0; i < TENANT_COUNT; i++) {
+            var overlay = PreviewI18nProviderFixture.createConfigMap("en", createOverrides(i), false);
+            overlay.getMetadata().setName("translations-tenant-" + i + "-en");
+            overlay.getMetadata().getLabels().put(PreviewI18nProvider.PREVIEW_TENANT_LABEL, "tenant-" + i);
+            overlayConfigMaps.add(overlay);
+        }
+
+        // Overlays
+        var before = usedHeap();
+        overlayConfigMaps.forEach(fixture::add);
+        var overlayBytes = usedHeap() - before;
+
+        // Copy of the base catalog per tenant
+        before = usedHeap();
+        var copiedCatalogs = new ArrayList<Map<String, String>>();
+        for (int i = 0; i < TENANT_COUNT; i++) {
+            var catalog = new HashMap<>(baseTranslations);
+            catalog.putAll(createOverrides(i));
+            copiedCatalogs.add(catalog);
+        }
+        var copyBytes = usedHeap() - before;
+
+        System.out.printf("%d tenants, %d keys, %d overrides per tenant: overlays %d KB, copied catalogs %d KB%n",
+                TENANT_COUNT, CATALOG_SIZE, OVERRIDES_PER_TENANT, overlayBytes / 1024, copyBytes / 1024);
+
+        // Keep everything reachable until after the measurements
+        var provider = fixture.getProvider();
+        assertEquals(TENANT_COUNT, overlayConfigMaps.size());
+        assertEquals(TENANT_COUNT, copiedCatalogs.size());
+        assertEquals("Tenant 7 override 0", provider.getTenantTranslation("tenant-7", "demo.key.0", Locale.ENGLISH));
+        assertEquals("Translation for key 42", provider.getTenantTranslation("tenant-7", "demo.key.42", Locale.ENGLISH));
+
+        assertTrue(overlayBytes * 5 < copyBytes,
+                "Expected overlays (" + overlayBytes + " bytes) to use far less heap than copied catalogs (" + copyBytes + " bytes)");
+    }
+
+    private static Map<String, String> createOverrides(int tenant) {
+        var overrides = new HashMap<String, String>();
+        for (int i = 0; i < OVERRIDES_PER_TENANT; i++) {
+            overrides.put("demo.key." + i, "Tenant " + tenant + " override " + i);
+        }
+        return overrides;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
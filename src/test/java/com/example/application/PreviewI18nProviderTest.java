@@ -1,14 +1,15 @@
 package com.example.application;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
-import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.Watcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -97,6 +98,56 @@ class PreviewI18nProviderTest {
         assertTrue(locales.contains(Locale.US));
     }
 
+    @Test
+    void getProvidedLocales_returnsDefaultLanguageFirstAndSortsRemainingLocales() {
+        var provider = createProvider(configMapEnUs, configMapDe, configMapEn);
+
+        var locales = provider.getProvidedLocales();
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN, Locale.US), locales);
+
+        var configMapFr = createConfigMap("fr", Map.of("language", "fr"), true);
+        configMapEn = createConfigMap("en", Map.of("language", "en"));
+        provider = createProvider(configMapEnUs, configMapDe, configMapEn, configMapFr);
+
+        locales = provider.getProvidedLocales();
+        assertEquals(List.of(Locale.FRENCH, Locale.GERMAN, Locale.ENGLISH, Locale.US), locales);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void addLocalesChangeListener_notifiesAboutAddedAndRemovedLocales() {
+        var provider = createProvider(configMapEn);
+        var watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        verify(provider, times(1)).watchResources(watcherCaptor.capture());
+        var watcher = watcherCaptor.getValue();
+
+        var events = new ArrayList<PreviewI18nProvider.ProvidedLocales>();
+        var registration = provider.addLocalesChangeListener(events::add);
+        var initialVersion = provider.getProvidedLocalesSnapshot().version();
+
+        // Add locale
+        watcher.eventReceived(Watcher.Action.ADDED, configMapDe);
+        assertEquals(1, events.size());
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), events.get(0).locales());
+        assertEquals(initialVersion + 1, events.get(0).version());
+        assertEquals(events.get(0), provider.getProvidedLocalesSnapshot());
+
+        // Updating translations of an existing locale does not change the locale set
+        watcher.eventReceived(Watcher.Action.MODIFIED, configMapDe);
+        assertEquals(1, events.size());
+
+        // Remove locale
+        watcher.eventReceived(Watcher.Action.DELETED, configMapDe);
+        assertEquals(2, events.size());
+        assertEquals(List.of(Locale.ENGLISH), events.get(1).locales());
+        assertEquals(initialVersion + 2, events.get(1).version());
+
+        // No notifications after removing the listener
+        registration.remove();
+        watcher.eventReceived(Watcher.Action.ADDED, configMapDe);
+        assertEquals(2, events.size());
+    }
+
     @Test
     void getTranslation_convertsMessageKeyIntoConfigMapKey() {
         var translations = new HashMap<String, String>();
@@ -186,22 +237,80 @@ class PreviewI18nProviderTest {
         assertEquals("Total: 123.46", translation);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void getTenantTranslation_appliesTenantOverlays() {
+        var provider = createProvider(configMapEn, configMapDe);
+        var watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        verify(provider, times(1)).watchResources(watcherCaptor.capture());
+        var watcher = watcherCaptor.getValue();
+
+        var overlay = createTenantConfigMap("acme", "de", Map.of("language", "de (ACME)"));
+        watcher.eventReceived(Watcher.Action.ADDED, overlay);
+
+        // Overridden key
+        assertEquals("de (ACME)", provider.getTenantTranslation("acme", "language", Locale.GERMAN));
+        assertEquals("de (ACME)", provider.getTenantTranslation("acme", "language", Locale.forLanguageTag("de-DE")));
+        // Falls through to base for keys that are not overridden
+        assertEquals("Gesamt: 123,46", provider.getTenantTranslation("acme", "format", Locale.GERMAN, 123.456));
+        // Falls through to base for locales without overlay
+        assertEquals("en", provider.getTenantTranslation("acme", "language", Locale.ENGLISH));
+        // Other tenants and the base catalog are not affected
+        assertEquals("de", provider.getTenantTranslation("other", "language", Locale.GERMAN));
+        assertEquals("de", provider.getTenantTranslation(null, "language", Locale.GERMAN));
+        assertEquals("de", provider.getTranslation("language", Locale.GERMAN));
+
+        // Overlays do not provide locales on their own
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), provider.getProvidedLocales());
+
+        // Remove overlay
+        watcher.eventReceived(Watcher.Action.DELETED, overlay);
+        assertEquals("de", provider.getTenantTranslation("acme", "language", Locale.GERMAN));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getTenantTranslation_removesPreviousOverlayWhenConfigMapIsRelabeled() {
+        var provider = createProvider(configMapEn, configMapDe);
+        var watcherCaptor = ArgumentCaptor.forClass(Watcher.class);
+        verify(provider, times(1)).watchResources(watcherCaptor.capture());
+        var watcher = watcherCaptor.getValue();
+
+        var overlay = createTenantConfigMap("acme", "de", Map.of("language", "de (ACME)"));
+        watcher.eventReceived(Watcher.Action.ADDED, overlay);
+        assertEquals("de (ACME)", provider.getTenantTranslation("acme", "language", Locale.GERMAN));
+
+        // Change tenant
+        var relabeled = createTenantConfigMap("acme", "de", Map.of("language", "de (ACME)"));
+        relabeled.getMetadata().getLabels().put(PreviewI18nProvider.PREVIEW_TENANT_LABEL, "other");
+        watcher.eventReceived(Watcher.Action.MODIFIED, relabeled);
+        assertEquals("de", provider.getTenantTranslation("acme", "language", Locale.GERMAN));
+        assertEquals("de (ACME)", provider.getTenantTranslation("other", "language", Locale.GERMAN));
+
+        // Change language tag
+        relabeled.getMetadata().getLabels().put(PreviewI18nProvider.PREVIEW_LANGUAGE_TAG_LABEL, "en");
+        watcher.eventReceived(Watcher.Action.MODIFIED, relabeled);
+        assertEquals("de", provider.getTenantTranslation("other", "language", Locale.GERMAN));
+        assertEquals("de (ACME)", provider.getTenantTranslation("other", "language", Locale.ENGLISH));
+
+        // Delete uses the tracked labels
+        watcher.eventReceived(Watcher.Action.DELETED, overlay);
+        assertEquals("en", provider.getTenantTranslation("other", "language", Locale.ENGLISH));
+    }
+
+    private ConfigMap createTenantConfigMap(String tenant, String languageTag, Map<String, String> translations) {
+        var configMap = createConfigMap(languageTag, translations);
+        configMap.getMetadata().setName("translations-" + tenant + "-" + languageTag);
+        configMap.getMetadata().getLabels().put(PreviewI18nProvider.PREVIEW_TENANT_LABEL, tenant);
+        return configMap;
+    }
+
     private ConfigMap createConfigMap(String languageTag, Map<String, String> translations) {
         return createConfigMap(languageTag, translations, false);
     }
 
     private ConfigMap createConfigMap(String languageTag, Map<String, String> translations, boolean isDefault) {
-        var metadata = new ObjectMeta();
-        var labels = new HashMap<String, String>();
-        labels.put(PreviewI18nProvider.PREVIEW_MARKER_LABEL, "");
-        labels.put(PreviewI18nProvider.PREVIEW_LANGUAGE_TAG_LABEL, languageTag);
-        labels.put(PreviewI18nProvider.PREVIEW_DEFAULT_LANGUAGE_LABEL, String.valueOf(isDefault));
-        metadata.setLabels(labels);
-
-        var configMap = new ConfigMap();
-        configMap.setMetadata(metadata);
-        configMap.getData().putAll(translations);
-        return configMap;
+        return PreviewI18nProviderFixture.createConfigMap(languageTag, translations, isDefault);
     }
 
     @SuppressWarnings("unchecked")
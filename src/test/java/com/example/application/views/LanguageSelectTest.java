@@ -0,0 +1,128 @@
+package com.example.application.views;
+
+import com.example.application.PreviewI18nProviderFixture;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.Command;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static com.example.application.PreviewI18nProviderFixture.createConfigMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LanguageSelectTest {
+    private PreviewI18nProviderFixture fixture;
+    private QueueingUI ui;
+    private LanguageSelect languageSelect;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new PreviewI18nProviderFixture();
+        fixture.add(createConfigMap("en", Map.of("language", "en"), true));
+        fixture.add(createConfigMap("de", Map.of("language", "de"), false));
+
+        ui = new QueueingUI();
+        ui.setLocale(Locale.ENGLISH);
+        languageSelect = new LanguageSelect(fixture.getProvider());
+    }
+
+    @Test
+    void attach_showsProvidedLocales() {
+        ui.add(languageSelect);
+
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), getItems());
+    }
+
+    @Test
+    void attach_showsLocalesChangedWhileDetached() {
+        fixture.add(createConfigMap("fr", Map.of("language", "fr"), false));
+        ui.add(languageSelect);
+
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH), getItems());
+        assertTrue(ui.pendingCommands.isEmpty());
+    }
+
+    @Test
+    void localesChange_updatesItemsAndKeepsValue() {
+        ui.add(languageSelect);
+        languageSelect.setValue(Locale.GERMAN);
+
+        // Add locale
+        fixture.add(createConfigMap("fr", Map.of("language", "fr"), false));
+        ui.runPendingCommands();
+
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH), getItems());
+        assertEquals(Locale.GERMAN, languageSelect.getValue());
+
+        // Remove locale
+        fixture.delete(createConfigMap("fr", Map.of(), false));
+        ui.runPendingCommands();
+
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), getItems());
+        assertEquals(Locale.GERMAN, languageSelect.getValue());
+    }
+
+    @Test
+    void localesChange_appliesLatestSnapshotOnce() {
+        ui.add(languageSelect);
+
+        fixture.add(createConfigMap("fr", Map.of("language", "fr"), false));
+        fixture.add(createConfigMap("it", Map.of("language", "it"), false));
+        assertEquals(2, ui.pendingCommands.size());
+
+        // First access already applies the latest snapshot
+        ui.runPendingCommand();
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN), getItems());
+        var dataProvider = languageSelect.getDataProvider();
+
+        // Second access skips the already applied snapshot
+        ui.runPendingCommand();
+        assertSame(dataProvider, languageSelect.getDataProvider());
+    }
+
+    @Test
+    void detach_removesListener() {
+        ui.add(languageSelect);
+        ui.remove(languageSelect);
+
+        fixture.add(createConfigMap("fr", Map.of("language", "fr"), false));
+
+        assertTrue(ui.pendingCommands.isEmpty());
+        assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), getItems());
+    }
+
+    private List<Locale> getItems() {
+        return languageSelect.getListDataView().getItems().toList();
+    }
+
+    /**
+     * Queues access commands instead of running them, so that tests can
+     * control when changes from the watcher thread are applied.
+     */
+    private static class QueueingUI extends UI {
+        private final List<Command> pendingCommands = new ArrayList<>();
+
+        @Override
+        public Future<Void> access(Command command) {
+            pendingCommands.add(command);
+            return null;
+        }
+
+        void runPendingCommand() {
+            pendingCommands.remove(0).execute();
+        }
+
+        void runPendingCommands() {
+            while (!pendingCommands.isEmpty()) {
+                runPendingCommand();
+            }
+        }
+    }
+}